@@ -0,0 +1,90 @@
+package main.java.com.expensetracker.model;
+
+/**
+ * Alert model class representing a budget or spending anomaly fired on a write
+ */
+public class Alert {
+    public static final String TYPE_BUDGET = "BUDGET";
+    public static final String TYPE_SPIKE = "SPIKE";
+
+    private long id;
+    private String type;
+    private String category;
+    private String period; // Format: YYYY-MM
+    private double amount;
+    private double threshold;
+    private long expenseId;
+    private String message;
+
+    // Constructors
+    public Alert() {
+    }
+
+    public Alert(long id, String type, String category, String period,
+                 double amount, double threshold, long expenseId, String message) {
+        this.id = id;
+        this.type = type;
+        this.category = category;
+        this.period = period;
+        this.amount = amount;
+        this.threshold = threshold;
+        this.expenseId = expenseId;
+        this.message = message;
+    }
+
+    // Getters
+    public long getId() {
+        return id;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public String getCategory() {
+        return category;
+    }
+
+    public String getPeriod() {
+        return period;
+    }
+
+    public double getAmount() {
+        return amount;
+    }
+
+    public double getThreshold() {
+        return threshold;
+    }
+
+    public long getExpenseId() {
+        return expenseId;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    // Convert to JSON string manually
+    public String toJson() {
+        return String.format(
+            "{\"id\":%d,\"type\":\"%s\",\"category\":\"%s\",\"period\":\"%s\",\"amount\":%.2f," +
+            "\"threshold\":%.2f,\"expenseId\":%d,\"message\":\"%s\"}",
+            id, type, category, period, amount, threshold, expenseId, message != null ? message : ""
+        );
+    }
+
+    @Override
+    public String toString() {
+        return "Alert{" +
+                "id=" + id +
+                ", type='" + type + '\'' +
+                ", category='" + category + '\'' +
+                ", period='" + period + '\'' +
+                ", amount=" + amount +
+                ", threshold=" + threshold +
+                ", expenseId=" + expenseId +
+                ", message='" + message + '\'' +
+                '}';
+    }
+}
@@ -1,6 +1,7 @@
 package main.java.com.expensetracker.server;
 
 import main.java.com.expensetracker.model.Expense;
+import main.java.com.expensetracker.service.AlertEngine;
 import main.java.com.expensetracker.service.ExpenseManager;
 import com.sun.net.httpserver.HttpExchange;
 import com.sun.net.httpserver.HttpHandler;
@@ -8,6 +9,7 @@ import com.sun.net.httpserver.HttpServer;
 
 import java.io.*;
 import java.net.InetSocketAddress;
+import java.net.URLDecoder;
 import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 import java.util.Map;
@@ -27,6 +29,7 @@ public class ExpenseServer {
         // API endpoints
         server.createContext("/api/expenses", new ExpenseHandler());
         server.createContext("/api/analytics", new AnalyticsHandler());
+        server.createContext("/api/alerts", new AlertsHandler());
         
         // Serve frontend files
         server.createContext("/", new FrontendHandler());
@@ -91,8 +94,23 @@ public class ExpenseServer {
                 sendResponse(exchange, 400, "Missing required fields");
                 return;
             }
+            if (category.equals(AlertEngine.ALL_CATEGORIES)) {
+                sendResponse(exchange, 400, "Category \"" + AlertEngine.ALL_CATEGORIES + "\" is reserved");
+                return;
+            }
             
-            double amount = Double.parseDouble(amountStr);
+            double amount;
+            try {
+                amount = Double.parseDouble(amountStr);
+            } catch (NumberFormatException e) {
+                sendResponse(exchange, 400, "Invalid amount");
+                return;
+            }
+            if (!Double.isFinite(amount)) {
+                sendResponse(exchange, 400, "Amount must be a finite number");
+                return;
+            }
+
             Expense expense = expenseManager.addExpense(category, amount, date, description);
             
             exchange.getResponseHeaders().set("Content-Type", "application/json");
@@ -133,6 +151,137 @@ public class ExpenseServer {
         }
     }
 
+    /**
+     * Handler for budget alerts (GET alerts, POST budget, DELETE alerts or budget)
+     */
+    static class AlertsHandler implements HttpHandler {
+        @Override
+        public void handle(HttpExchange exchange) throws IOException {
+            String method = exchange.getRequestMethod();
+
+            // Enable CORS
+            exchange.getResponseHeaders().add("Access-Control-Allow-Origin", "*");
+            exchange.getResponseHeaders().add("Access-Control-Allow-Methods", "GET, POST, DELETE, OPTIONS");
+            exchange.getResponseHeaders().add("Access-Control-Allow-Headers", "Content-Type");
+
+            if (method.equals("OPTIONS")) {
+                exchange.sendResponseHeaders(200, -1);
+                return;
+            }
+
+            try {
+                if (method.equals("GET")) {
+                    handleGetAlerts(exchange);
+                } else if (method.equals("POST")) {
+                    handleSetBudget(exchange);
+                } else if (method.equals("DELETE")) {
+                    handleDelete(exchange);
+                } else {
+                    sendResponse(exchange, 405, "Method not allowed");
+                }
+            } catch (Exception e) {
+                e.printStackTrace();
+                sendResponse(exchange, 500, "Internal server error: " + e.getMessage());
+            }
+        }
+
+        private void handleGetAlerts(HttpExchange exchange) throws IOException {
+            if (!isAlertsRoot(exchange)) {
+                sendResponse(exchange, 404, "Not found");
+                return;
+            }
+
+            String json = expenseManager.getAlertEngine().toJson();
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            sendResponse(exchange, 200, json);
+        }
+
+        private void handleSetBudget(HttpExchange exchange) throws IOException {
+            if (!isAlertsRoot(exchange)) {
+                sendResponse(exchange, 404, "Not found");
+                return;
+            }
+
+            String body = readRequestBody(exchange);
+            Map<String, String> data = parseJsonBody(body);
+
+            String category = data.get("category");
+            String limitStr = data.get("limit");
+
+            if (limitStr == null) {
+                sendResponse(exchange, 400, "Missing required fields");
+                return;
+            }
+            if (category == null || category.isEmpty()) {
+                category = AlertEngine.ALL_CATEGORIES;
+            }
+
+            double limit;
+            try {
+                limit = Double.parseDouble(limitStr);
+            } catch (NumberFormatException e) {
+                sendResponse(exchange, 400, "Invalid limit");
+                return;
+            }
+            if (!Double.isFinite(limit) || limit <= 0) {
+                sendResponse(exchange, 400, "Limit must be a positive number");
+                return;
+            }
+
+            expenseManager.getAlertEngine().setBudget(category, limit);
+
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            sendResponse(exchange, 201, expenseManager.getAlertEngine().toJson());
+        }
+
+        private void handleDelete(HttpExchange exchange) throws IOException {
+            // Split the raw path so an encoded "/" in a category stays inside its segment
+            String path = exchange.getRequestURI().getRawPath();
+            String[] parts = path.split("/");
+
+            // DELETE /api/alerts clears fired alerts
+            if (isAlertsRoot(exchange)) {
+                expenseManager.getAlertEngine().clearAlerts();
+                sendResponse(exchange, 200, "{\"message\":\"Alerts cleared\"}");
+                return;
+            }
+
+            // DELETE /api/alerts/budgets/{category} removes a budget
+            if (!parts[3].equals("budgets") || parts.length > 5) {
+                sendResponse(exchange, 404, "Not found");
+                return;
+            }
+            if (parts.length < 5) {
+                sendResponse(exchange, 400, "Missing budget category");
+                return;
+            }
+
+            String category;
+            try {
+                // Path segments keep "+" literal, unlike form encoding
+                category = URLDecoder.decode(parts[4].replace("+", "%2B"), StandardCharsets.UTF_8);
+            } catch (IllegalArgumentException e) {
+                sendResponse(exchange, 400, "Invalid budget category");
+                return;
+            }
+
+            boolean removed = expenseManager.getAlertEngine().removeBudget(category);
+
+            if (removed) {
+                sendResponse(exchange, 200, "{\"message\":\"Budget removed\"}");
+            } else {
+                sendResponse(exchange, 404, "{\"message\":\"Budget not found\"}");
+            }
+        }
+
+        /**
+         * Check the request is for /api/alerts itself rather than a sub-path
+         */
+        private boolean isAlertsRoot(HttpExchange exchange) {
+            return exchange.getRequestURI().getRawPath().split("/").length < 4;
+        }
+    }
+
     /**
      * Handler to serve frontend files
      */
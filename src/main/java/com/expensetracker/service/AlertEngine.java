@@ -0,0 +1,324 @@
+package main.java.com.expensetracker.service;
+
+import main.java.com.expensetracker.model.Alert;
+import main.java.com.expensetracker.model.Expense;
+
+import java.util.*;
+
+/**
+ * Evaluates budget and spending spike rules incrementally as expenses are written.
+ * Keeps running monthly sums per category and per month, plus a rolling mean/stddev
+ * over each category's last SPIKE_WINDOW expenses, so each add or delete costs a
+ * bounded amount of work instead of a rescan of all expenses.
+ */
+public class AlertEngine {
+    public static final String ALL_CATEGORIES = "*";
+
+    private static final int MAX_ALERTS = 100;
+    private static final int SPIKE_MIN_SAMPLES = 5;
+    private static final int SPIKE_WINDOW = 30;
+    private static final double SPIKE_SIGMA = 3.0;
+    private static final double SPIKE_MIN_DEVIATION = 0.1; // fraction of the mean, so flat recurring charges don't spike
+
+    private Map<String, Double> monthlyTotals;      // key: category|YYYY-MM
+    private Map<String, Double> periodTotals;       // key: YYYY-MM, all categories
+    private Map<String, RunningStats> categoryStats;
+    private Map<String, Double> budgets;            // key: category, or * for all categories
+    private Set<String> alertedBudgets;             // key: category|YYYY-MM already alerted while over budget
+    private Deque<Alert> alerts;
+    private long nextAlertId;
+
+    public AlertEngine() {
+        this.monthlyTotals = new HashMap<>();
+        this.periodTotals = new HashMap<>();
+        this.categoryStats = new HashMap<>();
+        this.budgets = new TreeMap<>();
+        this.alertedBudgets = new HashSet<>();
+        this.alerts = new ArrayDeque<>();
+        this.nextAlertId = 1;
+    }
+
+    /**
+     * Load existing expenses into the running state without firing alerts
+     */
+    public void load(List<Expense> expenses) {
+        for (Expense expense : expenses) {
+            if (isTracked(expense)) {
+                apply(expense);
+            }
+        }
+    }
+
+    /**
+     * Register or replace a monthly budget for a category (or * for all categories).
+     * For a new or lowered budget, a month already over the limit alerts on its next write.
+     * A raised budget doesn't re-alert months still over it, only re-arms those now under it.
+     */
+    public void setBudget(String category, double limit) {
+        Double previous = budgets.put(category, limit);
+        if (previous == null || limit < previous) {
+            resetAlerted(category);
+        } else {
+            alertedBudgets.removeIf(k -> categoryOf(k).equals(category) && totalFor(category, periodOf(k)) <= limit);
+        }
+    }
+
+    /**
+     * Remove a monthly budget
+     */
+    public boolean removeBudget(String category) {
+        resetAlerted(category);
+        return budgets.remove(category) != null;
+    }
+
+    /**
+     * Evaluate rules against a newly added expense, then fold it into the running state
+     */
+    public void onExpenseAdded(Expense expense) {
+        if (!isTracked(expense)) {
+            return;
+        }
+
+        String category = expense.getCategory();
+        String period = monthOf(expense.getDate());
+        double amount = expense.getAmount();
+
+        checkSpike(expense, category, period, amount);
+        apply(expense);
+        if (!ALL_CATEGORIES.equals(category)) {
+            checkBudget(expense, category, period);
+        }
+        checkBudget(expense, ALL_CATEGORIES, period);
+    }
+
+    /**
+     * Remove a deleted expense from the running state
+     */
+    public void onExpenseDeleted(Expense expense) {
+        if (!isTracked(expense)) {
+            return;
+        }
+
+        String period = monthOf(expense.getDate());
+        double amount = expense.getAmount();
+
+        double categoryTotal = monthlyTotals.merge(key(expense.getCategory(), period), -amount, Double::sum);
+        double periodTotal = periodTotals.merge(period, -amount, Double::sum);
+
+        // Back under budget, so crossing it again alerts again
+        if (!ALL_CATEGORIES.equals(expense.getCategory())) {
+            rearmBudget(expense.getCategory(), period, categoryTotal);
+        }
+        rearmBudget(ALL_CATEGORIES, period, periodTotal);
+
+        RunningStats stats = categoryStats.get(expense.getCategory());
+        if (stats != null) {
+            stats.remove(expense);
+            if (stats.count == 0) {
+                categoryStats.remove(expense.getCategory());
+            }
+        }
+    }
+
+    /**
+     * Get fired alerts, most recent first
+     */
+    public List<Alert> getAlerts() {
+        return new ArrayList<>(alerts);
+    }
+
+    /**
+     * Clear all fired alerts
+     */
+    public void clearAlerts() {
+        alerts.clear();
+    }
+
+    /**
+     * Get alerts and budgets as JSON
+     */
+    public String toJson() {
+        StringBuilder json = new StringBuilder("{");
+
+        json.append("\"budgets\":{");
+        int count = 0;
+        for (Map.Entry<String, Double> entry : budgets.entrySet()) {
+            if (count > 0) json.append(",");
+            json.append("\"").append(entry.getKey()).append("\":")
+                .append(String.format("%.2f", entry.getValue()));
+            count++;
+        }
+        json.append("},");
+
+        json.append("\"alerts\":[");
+        count = 0;
+        for (Alert alert : getAlerts()) {
+            if (count > 0) json.append(",");
+            json.append(alert.toJson());
+            count++;
+        }
+        json.append("]");
+
+        json.append("}");
+        return json.toString();
+    }
+
+    /**
+     * Fold an expense into the running sums and category statistics
+     */
+    private void apply(Expense expense) {
+        String period = monthOf(expense.getDate());
+        double amount = expense.getAmount();
+
+        monthlyTotals.merge(key(expense.getCategory(), period), amount, Double::sum);
+        periodTotals.merge(period, amount, Double::sum);
+        categoryStats.computeIfAbsent(expense.getCategory(), c -> new RunningStats()).add(expense);
+    }
+
+    /**
+     * Fire a budget alert on the first write that finds the monthly total over the limit
+     */
+    private void checkBudget(Expense expense, String category, String period) {
+        Double limit = budgets.get(category);
+        if (limit == null) {
+            return;
+        }
+
+        double total = totalFor(category, period);
+        if (total > limit && alertedBudgets.add(key(category, period))) {
+            String label = category.equals(ALL_CATEGORIES) ? "Total" : category;
+            fire(Alert.TYPE_BUDGET, category, period, total, limit, expense.getId(),
+                    String.format("%s spending for %s reached %.2f, over budget of %.2f",
+                            label, period, total, limit));
+        }
+    }
+
+    /**
+     * Fire a spike alert when the amount is far above the category's running mean
+     */
+    private void checkSpike(Expense expense, String category, String period, double amount) {
+        RunningStats stats = categoryStats.get(category);
+        if (stats == null || stats.count < SPIKE_MIN_SAMPLES) {
+            return;
+        }
+
+        double deviation = Math.max(stats.stddev(), SPIKE_MIN_DEVIATION * Math.abs(stats.mean));
+        double threshold = stats.mean + SPIKE_SIGMA * deviation;
+        if (amount > threshold) {
+            fire(Alert.TYPE_SPIKE, category, period, amount, threshold, expense.getId(),
+                    String.format("%s expense of %.2f is unusually high (average %.2f)",
+                            category, amount, stats.mean));
+        }
+    }
+
+    private void rearmBudget(String category, String period, double total) {
+        Double limit = budgets.get(category);
+        if (limit == null || total <= limit) {
+            alertedBudgets.remove(key(category, period));
+        }
+    }
+
+    private void resetAlerted(String category) {
+        alertedBudgets.removeIf(k -> categoryOf(k).equals(category));
+    }
+
+    private double totalFor(String category, String period) {
+        return ALL_CATEGORIES.equals(category)
+                ? periodTotals.getOrDefault(period, 0.0)
+                : monthlyTotals.getOrDefault(key(category, period), 0.0);
+    }
+
+    private void fire(String type, String category, String period, double amount,
+                      double threshold, long expenseId, String message) {
+        alerts.addFirst(new Alert(nextAlertId++, type, category, period, amount, threshold, expenseId, message));
+        if (alerts.size() > MAX_ALERTS) {
+            alerts.removeLast();
+        }
+    }
+
+    /**
+     * NaN or infinite amounts would poison the running sums for good, so they are never added
+     */
+    private static boolean isTracked(Expense expense) {
+        return Double.isFinite(expense.getAmount());
+    }
+
+    private static String key(String category, String period) {
+        return category + "|" + period;
+    }
+
+    // Period is the last segment of a key, so a "|" inside a category name doesn't matter
+    private static String categoryOf(String key) {
+        return key.substring(0, key.lastIndexOf('|'));
+    }
+
+    private static String periodOf(String key) {
+        return key.substring(key.lastIndexOf('|') + 1);
+    }
+
+    /**
+     * Get the YYYY-MM period of a YYYY-MM-DD date
+     */
+    private static String monthOf(String date) {
+        if (date == null || date.length() < 7) {
+            return "";
+        }
+        return date.substring(0, 7);
+    }
+
+    /**
+     * Mean and variance (Welford's method) over a category's most recent expenses.
+     * The oldest expense is dropped once the window is full. Removals recompute from the
+     * window instead of reversing Welford's update, which loses precision after a huge amount.
+     */
+    private static class RunningStats {
+        private Deque<Expense> window = new ArrayDeque<>();
+        private long count;
+        private double mean;
+        private double m2;
+
+        void add(Expense expense) {
+            window.addLast(expense);
+            if (window.size() > SPIKE_WINDOW) {
+                window.removeFirst();
+                recompute();
+            } else {
+                include(expense.getAmount());
+            }
+        }
+
+        void remove(Expense expense) {
+            // Bounded by SPIKE_WINDOW; an expense already out of the window is ignored
+            Iterator<Expense> iterator = window.iterator();
+            while (iterator.hasNext()) {
+                Expense windowed = iterator.next();
+                if (windowed.getId() == expense.getId()) {
+                    iterator.remove();
+                    recompute();
+                    return;
+                }
+            }
+        }
+
+        private void include(double x) {
+            count++;
+            double delta = x - mean;
+            mean += delta / count;
+            m2 += delta * (x - mean);
+        }
+
+        // Bounded by SPIKE_WINDOW
+        private void recompute() {
+            count = 0;
+            mean = 0;
+            m2 = 0;
+            for (Expense windowed : window) {
+                include(windowed.getAmount());
+            }
+        }
+
+        double stddev() {
+            return count > 1 ? Math.sqrt(m2 / (count - 1)) : 0;
+        }
+    }
+}
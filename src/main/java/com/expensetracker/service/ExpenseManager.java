@@ -12,6 +12,7 @@ import java.util.stream.Collectors;
 public class ExpenseManager {
     private List<Expense> expenses;
     private FileStorage fileStorage;
+    private AlertEngine alertEngine;
     private long nextId;
 
     public ExpenseManager() {
@@ -23,6 +24,9 @@ public class ExpenseManager {
                 .mapToLong(Expense::getId)
                 .max()
                 .orElse(0) + 1;
+
+        this.alertEngine = new AlertEngine();
+        alertEngine.load(expenses);
     }
 
     /**
@@ -31,6 +35,7 @@ public class ExpenseManager {
     public Expense addExpense(String category, double amount, String date, String description) {
         Expense expense = new Expense(nextId++, category, amount, date, description);
         expenses.add(expense);
+        alertEngine.onExpenseAdded(expense);
         saveToFile();
         return expense;
     }
@@ -46,11 +51,24 @@ public class ExpenseManager {
      * Delete an expense by ID
      */
     public boolean deleteExpense(long id) {
-        boolean removed = expenses.removeIf(e -> e.getId() == id);
-        if (removed) {
-            saveToFile();
+        Iterator<Expense> iterator = expenses.iterator();
+        while (iterator.hasNext()) {
+            Expense expense = iterator.next();
+            if (expense.getId() == id) {
+                iterator.remove();
+                alertEngine.onExpenseDeleted(expense);
+                saveToFile();
+                return true;
+            }
         }
-        return removed;
+        return false;
+    }
+
+    /**
+     * Get the alert engine evaluated on each write
+     */
+    public AlertEngine getAlertEngine() {
+        return alertEngine;
     }
 
     /**
@@ -0,0 +1,221 @@
+import main.java.com.expensetracker.model.Alert;
+import main.java.com.expensetracker.model.Expense;
+import main.java.com.expensetracker.service.AlertEngine;
+
+import java.util.*;
+
+/**
+ * Executable checks for AlertEngine (no test framework needed).
+ *
+ * javac -d bin $(find src -name "*.java")
+ * javac -d bin -cp bin test/AlertEngineCheck.java
+ * java -cp bin AlertEngineCheck
+ */
+public class AlertEngineCheck {
+    private static final int WINDOW = 30;         // AlertEngine.SPIKE_WINDOW
+    private static final int MIN_SAMPLES = 5;     // AlertEngine.SPIKE_MIN_SAMPLES
+    private static final double PROBE = 1e9;      // always far above any threshold
+
+    private static AlertEngine engine;
+    private static long nextId;
+    private static int failures = 0;
+
+    public static void main(String[] args) {
+        checkRollingWindow();
+        checkBudgetCrossing();
+        checkBudgetAddDeleteAdd();
+        checkBudgetChanges();
+        checkNonFiniteAmounts();
+
+        if (failures > 0) {
+            System.out.println(failures + " check(s) failed");
+            System.exit(1);
+        }
+        System.out.println("All checks passed");
+    }
+
+    /**
+     * Spike statistics after random adds and deletes match a direct recompute over the
+     * same window. Each probe adds a huge expense, which always fires a SPIKE carrying
+     * mean + 3 * max(stddev, 0.1 * mean) of the window, then deletes it again.
+     */
+    private static void checkRollingWindow() {
+        reset();
+        Random random = new Random(7);
+        List<Expense> live = new ArrayList<>();
+        Deque<Expense> window = new ArrayDeque<>();   // reference model of the engine's window
+        double worst = 0;
+        int probes = 0;
+
+        for (int i = 0; i < 20000; i++) {
+            if (!live.isEmpty() && random.nextInt(4) == 0) {
+                Expense expense = live.remove(random.nextInt(live.size()));
+                engine.onExpenseDeleted(expense);
+                window.removeIf(e -> e.getId() == expense.getId());
+            } else {
+                // Shift the level halfway through so the window has to adapt
+                double amount = 5 + random.nextDouble() * 100 + (i > 10000 ? 500 : 0);
+                Expense expense = add("Food", amount, "2025-01-01");
+                live.add(expense);
+                addToWindow(window, expense);
+            }
+
+            if (i % 10 == 0 && window.size() >= MIN_SAMPLES) {
+                double expected = expectedThreshold(window);
+                Expense probe = add("Food", PROBE, "2025-01-01");
+                Alert alert = engine.getAlerts().get(0);
+                if (alert.getExpenseId() != probe.getId()) {
+                    fail("probe " + probe.getId() + " did not fire a SPIKE");
+                    return;
+                }
+                worst = Math.max(worst, Math.abs(alert.getThreshold() - expected) / expected);
+                probes++;
+
+                addToWindow(window, probe);
+                engine.onExpenseDeleted(probe);
+                window.removeIf(e -> e.getId() == probe.getId());
+            }
+        }
+
+        check(probes > 1000 && worst < 1e-9,
+                "rolling window matches direct recompute (" + probes + " probes, max rel error " + worst + ")");
+    }
+
+    /**
+     * Under budget stays quiet, crossing fires once per month, and each month alerts on its own
+     */
+    private static void checkBudgetCrossing() {
+        reset();
+        engine.setBudget("Food", 100);
+        engine.setBudget(AlertEngine.ALL_CATEGORIES, 150);
+
+        add("Food", 60, "2025-03-01");
+        check(budgetAlerts() == 0, "under budget: no alert");
+        add("Food", 50, "2025-03-02");
+        check(budgetAlerts() == 1 && latest().getAmount() == 110, "crossing at 110 fires once");
+        add("Food", 5, "2025-03-03");
+        check(budgetAlerts() == 1, "still over in the same month: no repeat");
+        add("Transport", 40, "2025-03-04");
+        check(budgetAlerts() == 2 && latest().getCategory().equals(AlertEngine.ALL_CATEGORIES)
+                && latest().getAmount() == 155, "overall budget crosses at 155");
+        add("Food", 160, "2025-04-01");
+        check(budgetAlerts() == 4, "next month alerts separately for Food and overall");
+    }
+
+    /**
+     * Totals stay correct across add -> delete -> add, and deleting back under budget re-arms it
+     */
+    private static void checkBudgetAddDeleteAdd() {
+        reset();
+        engine.setBudget("Food", 100);
+
+        add("Food", 60, "2025-03-01");
+        Expense crossing = add("Food", 50, "2025-03-02");
+        check(budgetAlerts() == 1, "add: crossing at 110 fires");
+        engine.onExpenseDeleted(crossing);
+        add("Food", 30, "2025-03-03");
+        check(budgetAlerts() == 1, "delete: total back to 60, 90 stays under budget");
+        add("Food", 20, "2025-03-04");
+        check(budgetAlerts() == 2 && latest().getAmount() == 110, "add again: re-crossing fires at 110");
+    }
+
+    /**
+     * New or lowered budgets re-evaluate a month already over; re-posting or raising does not
+     */
+    private static void checkBudgetChanges() {
+        reset();
+        add("Food", 120, "2025-01-01");
+        engine.setBudget("Food", 100);
+        add("Food", 5, "2025-01-02");
+        check(budgetAlerts() == 1 && latest().getAmount() == 125, "budget set on a month already over fires on next write");
+
+        engine.setBudget("Food", 100);
+        add("Food", 1, "2025-01-03");
+        check(budgetAlerts() == 1, "re-posting the same limit: no second alert");
+        engine.setBudget("Food", 120);
+        add("Food", 1, "2025-01-04");
+        check(budgetAlerts() == 1, "raised but still exceeded: no second alert");
+        engine.setBudget("Food", 200);
+        add("Food", 50, "2025-01-05");
+        check(budgetAlerts() == 1, "raised above the total: quiet");
+        add("Food", 50, "2025-01-06");
+        check(budgetAlerts() == 2, "crossing the raised limit alerts");
+        engine.setBudget("Food", 150);
+        add("Food", 1, "2025-01-07");
+        check(budgetAlerts() == 3, "lowered limit re-alerts on next write");
+        engine.removeBudget("Food");
+        add("Food", 500, "2025-01-08");
+        check(budgetAlerts() == 3, "removed budget never fires");
+    }
+
+    /**
+     * NaN and infinite amounts never reach the running totals or statistics
+     */
+    private static void checkNonFiniteAmounts() {
+        for (double bad : new double[]{Double.NaN, Double.POSITIVE_INFINITY}) {
+            reset();
+            engine.setBudget("Food", 100);
+            for (int i = 0; i < 5; i++) {
+                add("Food", 10, "2025-01-01");
+            }
+            Expense expense = add("Food", bad, "2025-01-02");
+            engine.onExpenseDeleted(expense);
+            add("Food", 500, "2025-01-03");
+            check(budgetAlerts() == 1 && spikeAlerts() == 1, "alerts still fire after adding and deleting " + bad);
+        }
+
+        reset();
+        engine.setBudget("Food", 100);
+        engine.load(List.of(new Expense(nextId++, "Food", Double.NaN, "2025-01-01", "")));
+        add("Food", 150, "2025-01-02");
+        check(budgetAlerts() == 1 && latest().getAmount() == 150, "NaN row loaded from file is skipped");
+    }
+
+    private static void reset() {
+        engine = new AlertEngine();
+        nextId = 1;
+    }
+
+    private static Expense add(String category, double amount, String date) {
+        Expense expense = new Expense(nextId++, category, amount, date, "");
+        engine.onExpenseAdded(expense);
+        return expense;
+    }
+
+    private static void addToWindow(Deque<Expense> window, Expense expense) {
+        window.addLast(expense);
+        if (window.size() > WINDOW) {
+            window.removeFirst();
+        }
+    }
+
+    private static double expectedThreshold(Collection<Expense> window) {
+        double mean = window.stream().mapToDouble(Expense::getAmount).average().orElse(0);
+        double sumSquares = window.stream().mapToDouble(e -> (e.getAmount() - mean) * (e.getAmount() - mean)).sum();
+        double stddev = Math.sqrt(sumSquares / (window.size() - 1));
+        return mean + 3.0 * Math.max(stddev, 0.1 * Math.abs(mean));
+    }
+
+    private static Alert latest() {
+        return engine.getAlerts().get(0);
+    }
+
+    private static long budgetAlerts() {
+        return engine.getAlerts().stream().filter(a -> a.getType().equals(Alert.TYPE_BUDGET)).count();
+    }
+
+    private static long spikeAlerts() {
+        return engine.getAlerts().stream().filter(a -> a.getType().equals(Alert.TYPE_SPIKE)).count();
+    }
+
+    private static void check(boolean ok, String description) {
+        System.out.println((ok ? "PASS " : "FAIL ") + description);
+        if (!ok) {
+            failures++;
+        }
+    }
+
+    private static void fail(String description) {
+        check(false, description);
+    }
+}